@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Compara el tiempo hasta la primera respuesta HTTP del jar normal contra el build
+# de arranque rápido (AOT + CDS) y, si existe, la imagen nativa.
+#
+# Uso: ./scripts/benchmark-arranque.sh [repeticiones]
+# Variables: URL (por defecto http://localhost:8181/api-docs), SIN_BUILD=1 para reutilizar artefactos
+#
+# El URL por defecto no consulta MySQL, así que el resultado no depende de la base ni del
+# tamaño de boleta (sólo de que el contexto, incluido JPA, arranque). Con un URL como
+# /ventas/stats la medición incluye además la primera consulta a la base.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+REPETICIONES="${1:-5}"
+URL="${URL:-http://localhost:8181/api-docs}"
+JAR="Ventas-0.0.1-SNAPSHOT.jar"
+DIR_BENCH="target/benchmark"
+
+if [ -z "${SIN_BUILD:-}" ]; then
+    # clean borra target/: se resguarda la imagen nativa (mvn -Pnative native:compile) si existe
+    NATIVA_TMP=""
+    if [ -x target/Ventas ]; then
+        NATIVA_TMP="$(mktemp)"
+        cp target/Ventas "$NATIVA_TMP"
+    elif [ -x "$DIR_BENCH/Ventas" ]; then
+        NATIVA_TMP="$(mktemp)"
+        cp "$DIR_BENCH/Ventas" "$NATIVA_TMP"
+    fi
+    mvn -q -B clean package -DskipTests
+    mkdir -p "$DIR_BENCH"
+    cp "target/$JAR" "$DIR_BENCH/base.jar"
+    if [ -n "$NATIVA_TMP" ]; then
+        mv "$NATIVA_TMP" "$DIR_BENCH/Ventas"
+        chmod +x "$DIR_BENCH/Ventas"
+    fi
+    mvn -q -B package -DskipTests -Parranque-rapido
+elif [ -x target/Ventas ]; then
+    mkdir -p "$DIR_BENCH"
+    cp target/Ventas "$DIR_BENCH/Ventas"
+fi
+
+# Mide los milisegundos desde el lanzamiento hasta que URL responde
+medir() {
+    local dir="$1"; shift
+    local inicio fin pid
+    inicio=$(date +%s%N)
+    (cd "$dir" && exec "$@" >/dev/null 2>&1) &
+    pid=$!
+    until curl -s -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "ERROR: el proceso terminó antes de responder" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    fin=$(date +%s%N)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo $(( (fin - inicio) / 1000000 ))
+}
+
+ejecutar() {
+    local nombre="$1"; shift
+    local total=0 ms
+    for _ in $(seq "$REPETICIONES"); do
+        ms=$(medir "$@")
+        total=$((total + ms))
+    done
+    printf '%-22s %6d ms (promedio de %d)\n' "$nombre" $((total / REPETICIONES)) "$REPETICIONES"
+}
+
+ejecutar "jar" "$DIR_BENCH" java -jar base.jar
+ejecutar "aot + cds" target/cds java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$JAR"
+if [ -x "$DIR_BENCH/Ventas" ]; then
+    ejecutar "imagen nativa" "$DIR_BENCH" ./Ventas
+else
+    echo "imagen nativa          omitida (no existe target/Ventas; generarla con mvn -Pnative native:compile)"
+fi
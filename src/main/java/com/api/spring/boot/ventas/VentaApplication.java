@@ -2,9 +2,13 @@ package com.api.spring.boot.ventas;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableCaching
+@EnableScheduling
 public class VentaApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,31 @@
+package com.api.spring.boot.ventas.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registra el filtro de control de admisión sólo sobre /ventas
+ */
+@Configuration
+@EnableConfigurationProperties(AdmisionProperties.class)
+@ConditionalOnProperty(name = "ventas.admision.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmisionConfig {
+
+    @Bean
+    public AdmisionFilter admisionFilter(AdmisionProperties properties) {
+        return new AdmisionFilter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmisionFilter> admisionFilterRegistration(AdmisionFilter admisionFilter) {
+        FilterRegistrationBean<AdmisionFilter> registro = new FilterRegistrationBean<>(admisionFilter);
+        registro.addUrlPatterns("/ventas", "/ventas/*");
+        // Antes que el resto de filtros, para rechazar sin trabajo adicional
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
@@ -0,0 +1,108 @@
+package com.api.spring.boot.ventas.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Control de admisión para /ventas: un bulkhead por grupo de endpoints, para que los
+ * reportes y las llamadas a Detalle Ventas no agoten los hilos que atienden los POST del POS.
+ * Cola llena responde 429; timeout en cola responde 503; ambos con Retry-After.
+ * Los preflight CORS (OPTIONS) pasan sin reservar cupo.
+ */
+public class AdmisionFilter extends OncePerRequestFilter {
+
+    public enum GrupoEndpoint { ESCRITURAS, LECTURAS, REPORTES, COMPUESTAS }
+
+    private final Map<GrupoEndpoint, LimitadorAdaptativo> limitadores = new EnumMap<>(GrupoEndpoint.class);
+
+    public AdmisionFilter(AdmisionProperties properties) {
+        for (GrupoEndpoint grupo : GrupoEndpoint.values()) {
+            AdmisionProperties.Grupo config = properties.getGrupos()
+                .getOrDefault(grupo.name().toLowerCase(Locale.ROOT), new AdmisionProperties.Grupo());
+            limitadores.put(grupo, new LimitadorAdaptativo(config));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // Los preflight CORS no consumen cupos: los responde Spring MVC sin tocar la base
+        if (CorsUtils.isPreFlightRequest(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LimitadorAdaptativo limitador = limitadores.get(clasificar(request));
+
+        LimitadorAdaptativo.Resultado resultado;
+        try {
+            resultado = limitador.adquirir();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultado = LimitadorAdaptativo.Resultado.TIMEOUT;
+        }
+
+        if (resultado != LimitadorAdaptativo.Resultado.ADMITIDA) {
+            boolean colaLlena = resultado == LimitadorAdaptativo.Resultado.COLA_LLENA;
+            response.setStatus(colaLlena ? HttpStatus.TOO_MANY_REQUESTS.value() : HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limitador.getRetryAfterSegundos()));
+            // El rechazo ocurre antes de @CrossOrigin del controlador: se replican sus cabeceras CORS
+            if (CorsUtils.isCorsRequest(request)) {
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.RETRY_AFTER);
+            }
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(colaLlena ? "Demasiadas solicitudes, intente nuevamente" : "Servicio saturado, intente nuevamente");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limitador.liberar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Asigna la petición a su grupo según método y ruta
+     */
+    static GrupoEndpoint clasificar(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return GrupoEndpoint.ESCRITURAS;
+        }
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        if (ruta.endsWith("/con-detalles") || ruta.startsWith("/ventas/stats/completas")
+                || ruta.startsWith("/ventas/productos/")) {
+            return GrupoEndpoint.COMPUESTAS;
+        }
+        if (ruta.equals("/ventas") || ruta.equals("/ventas/") || ruta.startsWith("/ventas/stats")
+                || ruta.startsWith("/ventas/cliente/") || ruta.startsWith("/ventas/analytics")
+                || ruta.startsWith("/ventas/ranking/")) {
+            return GrupoEndpoint.REPORTES;
+        }
+        return GrupoEndpoint.LECTURAS;
+    }
+
+    public Map<String, Object> metricas() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        limitadores.forEach((grupo, limitador) ->
+            metricas.put(grupo.name().toLowerCase(Locale.ROOT), limitador.metricas()));
+        return metricas;
+    }
+}
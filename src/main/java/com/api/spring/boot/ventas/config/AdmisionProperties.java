@@ -0,0 +1,112 @@
+package com.api.spring.boot.ventas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propiedades de control de admisión (ventas.admision.*).
+ * Cada grupo de endpoints (escrituras, lecturas, reportes, compuestas) tiene su propio límite y cola.
+ */
+@ConfigurationProperties(prefix = "ventas.admision")
+public class AdmisionProperties {
+
+    private boolean enabled = true;
+    private Map<String, Grupo> grupos = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Grupo> getGrupos() {
+        return grupos;
+    }
+
+    public void setGrupos(Map<String, Grupo> grupos) {
+        this.grupos = grupos;
+    }
+
+    public static class Grupo {
+        // Peticiones concurrentes al arrancar; luego se ajusta entre mínimo y máximo (AIMD)
+        private int limiteInicial = 20;
+        private int limiteMinimo = 2;
+        private int limiteMaximo = 100;
+        // Peticiones en espera cuando el límite está ocupado; sobre esto se responde 429
+        private int cola = 20;
+        // Espera máxima en cola; al vencer se responde 503
+        private long timeoutMs = 1000;
+        // Latencia sobre la cual el límite se reduce multiplicativamente
+        private long latenciaObjetivoMs = 500;
+        private double factorReduccion = 0.9;
+        private int retryAfterSegundos = 1;
+
+        public int getLimiteInicial() {
+            return limiteInicial;
+        }
+
+        public void setLimiteInicial(int limiteInicial) {
+            this.limiteInicial = limiteInicial;
+        }
+
+        public int getLimiteMinimo() {
+            return limiteMinimo;
+        }
+
+        public void setLimiteMinimo(int limiteMinimo) {
+            this.limiteMinimo = limiteMinimo;
+        }
+
+        public int getLimiteMaximo() {
+            return limiteMaximo;
+        }
+
+        public void setLimiteMaximo(int limiteMaximo) {
+            this.limiteMaximo = limiteMaximo;
+        }
+
+        public int getCola() {
+            return cola;
+        }
+
+        public void setCola(int cola) {
+            this.cola = cola;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public long getLatenciaObjetivoMs() {
+            return latenciaObjetivoMs;
+        }
+
+        public void setLatenciaObjetivoMs(long latenciaObjetivoMs) {
+            this.latenciaObjetivoMs = latenciaObjetivoMs;
+        }
+
+        public double getFactorReduccion() {
+            return factorReduccion;
+        }
+
+        public void setFactorReduccion(double factorReduccion) {
+            this.factorReduccion = factorReduccion;
+        }
+
+        public int getRetryAfterSegundos() {
+            return retryAfterSegundos;
+        }
+
+        public void setRetryAfterSegundos(int retryAfterSegundos) {
+            this.retryAfterSegundos = retryAfterSegundos;
+        }
+    }
+}
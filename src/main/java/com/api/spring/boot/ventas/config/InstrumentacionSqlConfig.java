@@ -0,0 +1,167 @@
+package com.api.spring.boot.ventas.config;
+
+import com.api.spring.boot.ventas.service.RegistroConsultasSql;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Instrumentación de las sentencias SQL: envuelve el DataSource para medir cada
+ * execute* y reportarlo a RegistroConsultasSql (reemplaza spring.jpa.show-sql).
+ *
+ * Los proxies usan conjuntos fijos de interfaces estándar (no las del driver ni de Hikari),
+ * registrados como hints para que la imagen nativa los genere en el build.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ventas.sql.instrumentacion.enabled", havingValue = "true", matchIfMissing = true)
+@ImportRuntimeHints(InstrumentacionSqlConfig.ProxiesJdbcHints.class)
+public class InstrumentacionSqlConfig {
+
+    // Closeable mantiene el cierre del pool (destroy-method inferido de HikariDataSource)
+    private static final Class<?>[] INTERFACES_DATASOURCE = {DataSource.class, Closeable.class};
+    private static final Class<?>[] INTERFACES_CONEXION = {Connection.class};
+    private static final Class<?>[] INTERFACES_SENTENCIA = {Statement.class};
+    private static final Class<?>[] INTERFACES_PREPARADA = {PreparedStatement.class};
+    private static final Class<?>[] INTERFACES_LLAMADA = {CallableStatement.class};
+
+    static class ProxiesJdbcHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.proxies().registerJdkProxy(INTERFACES_DATASOURCE);
+            hints.proxies().registerJdkProxy(INTERFACES_CONEXION);
+            hints.proxies().registerJdkProxy(INTERFACES_SENTENCIA);
+            hints.proxies().registerJdkProxy(INTERFACES_PREPARADA);
+            hints.proxies().registerJdkProxy(INTERFACES_LLAMADA);
+        }
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentacionDataSource(ObjectProvider<RegistroConsultasSql> registro) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !Proxy.isProxyClass(bean.getClass())) {
+                    return envolver(INTERFACES_DATASOURCE, new DataSourceHandler((DataSource) bean, registro));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Object envolver(Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(InstrumentacionSqlConfig.class.getClassLoader(), interfaces, handler);
+    }
+
+    private static Class<?>[] interfacesSentencia(Statement sentencia) {
+        if (sentencia instanceof CallableStatement) {
+            return INTERFACES_LLAMADA;
+        }
+        return sentencia instanceof PreparedStatement ? INTERFACES_PREPARADA : INTERFACES_SENTENCIA;
+    }
+
+    private static Object invocar(Object objetivo, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(objetivo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class DataSourceHandler implements InvocationHandler {
+        private final DataSource objetivo;
+        private final ObjectProvider<RegistroConsultasSql> registro;
+
+        DataSourceHandler(DataSource objetivo, ObjectProvider<RegistroConsultasSql> registro) {
+            this.objetivo = objetivo;
+            this.registro = registro;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Closeable.class) {
+                if (objetivo instanceof Closeable) {
+                    ((Closeable) objetivo).close();
+                }
+                return null;
+            }
+            Object resultado = invocar(objetivo, method, args);
+            if (resultado instanceof Connection) {
+                return envolver(INTERFACES_CONEXION, new ConexionHandler((Connection) resultado, registro));
+            }
+            return resultado;
+        }
+    }
+
+    private static final class ConexionHandler implements InvocationHandler {
+        private final Connection objetivo;
+        private final ObjectProvider<RegistroConsultasSql> registro;
+
+        ConexionHandler(Connection objetivo, ObjectProvider<RegistroConsultasSql> registro) {
+            this.objetivo = objetivo;
+            this.registro = registro;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object resultado = invocar(objetivo, method, args);
+            if (resultado instanceof Statement) {
+                // prepareStatement/prepareCall reciben el SQL (con '?'); createStatement lo recibe en execute*
+                String sql = method.getName().startsWith("prepare")
+                    ? RegistroConsultasSql.sinParametros((String) args[0])
+                    : null;
+                Statement sentencia = (Statement) resultado;
+                return envolver(interfacesSentencia(sentencia), new SentenciaHandler(sentencia, sql, registro));
+            }
+            return resultado;
+        }
+    }
+
+    private static final class SentenciaHandler implements InvocationHandler {
+        private final Statement objetivo;
+        private final String sqlPreparado;
+        private final ObjectProvider<RegistroConsultasSql> registro;
+
+        SentenciaHandler(Statement objetivo, String sqlPreparado, ObjectProvider<RegistroConsultasSql> registro) {
+            this.objetivo = objetivo;
+            this.sqlPreparado = sqlPreparado;
+            this.registro = registro;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invocar(objetivo, method, args);
+            }
+            long inicio = System.nanoTime();
+            try {
+                return invocar(objetivo, method, args);
+            } finally {
+                long nanos = System.nanoTime() - inicio;
+                String sql = args != null && args.length > 0 && args[0] instanceof String
+                    ? RegistroConsultasSql.sinParametros((String) args[0])
+                    : sqlPreparado;
+                RegistroConsultasSql destino = registro.getIfAvailable();
+                if (destino != null) {
+                    destino.registrar(sql, nanos);
+                }
+            }
+        }
+    }
+}
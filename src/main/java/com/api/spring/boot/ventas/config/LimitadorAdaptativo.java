@@ -0,0 +1,111 @@
+package com.api.spring.boot.ventas.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead con límite de concurrencia adaptativo (AIMD) y cola acotada.
+ * El límite sube en 1 por cada "ventana" de respuestas bajo la latencia objetivo
+ * (sólo mientras al menos la mitad del límite está en uso) y se multiplica por el factor de reducción cuando una respuesta la supera.
+ */
+public class LimitadorAdaptativo {
+
+    public enum Resultado { ADMITIDA, COLA_LLENA, TIMEOUT }
+
+    private final AdmisionProperties.Grupo config;
+    private final long timeoutNanos;
+    private final long latenciaObjetivoNanos;
+
+    // Estado protegido por this
+    private double limite;
+    private int enCurso;
+    private int enCola;
+    private long ultimaReduccion;
+
+    private final LongAdder admitidas = new LongAdder();
+    private final LongAdder rechazadasColaLlena = new LongAdder();
+    private final LongAdder rechazadasTimeout = new LongAdder();
+    private final LongAdder latenciaTotalNanos = new LongAdder();
+
+    public LimitadorAdaptativo(AdmisionProperties.Grupo config) {
+        this.config = config;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMs());
+        this.latenciaObjetivoNanos = TimeUnit.MILLISECONDS.toNanos(config.getLatenciaObjetivoMs());
+        this.limite = Math.max(config.getLimiteMinimo(), Math.min(config.getLimiteMaximo(), config.getLimiteInicial()));
+        this.ultimaReduccion = System.nanoTime() - latenciaObjetivoNanos - 1;
+    }
+
+    /**
+     * Reserva un cupo, esperando en cola hasta el timeout si el límite está ocupado
+     */
+    public synchronized Resultado adquirir() throws InterruptedException {
+        if (enCola == 0 && enCurso < (int) limite) {
+            enCurso++;
+            admitidas.increment();
+            return Resultado.ADMITIDA;
+        }
+        if (enCola >= config.getCola()) {
+            rechazadasColaLlena.increment();
+            return Resultado.COLA_LLENA;
+        }
+
+        enCola++;
+        try {
+            long limiteEspera = System.nanoTime() + timeoutNanos;
+            while (enCurso >= (int) limite) {
+                long restante = limiteEspera - System.nanoTime();
+                if (restante <= 0) {
+                    rechazadasTimeout.increment();
+                    return Resultado.TIMEOUT;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, restante);
+            }
+            enCurso++;
+            admitidas.increment();
+            return Resultado.ADMITIDA;
+        } finally {
+            enCola--;
+        }
+    }
+
+    /**
+     * Libera el cupo y ajusta el límite según la latencia observada
+     */
+    public synchronized void liberar(long latenciaNanos) {
+        int enUso = enCurso;
+        enCurso--;
+        latenciaTotalNanos.add(latenciaNanos);
+
+        long ahora = System.nanoTime();
+        if (latenciaNanos > latenciaObjetivoNanos) {
+            // Una reducción por ventana de latencia objetivo, para no colapsar ante una ráfaga
+            if (ahora - ultimaReduccion > latenciaObjetivoNanos) {
+                limite = Math.max(config.getLimiteMinimo(), limite * config.getFactorReduccion());
+                ultimaReduccion = ahora;
+            }
+        } else if (enUso >= limite / 2) {
+            // Sólo crece si el límite se está usando: con poca carga no hay evidencia de más capacidad
+            limite = Math.min(config.getLimiteMaximo(), limite + 1.0 / limite);
+        }
+        notifyAll();
+    }
+
+    public int getRetryAfterSegundos() {
+        return config.getRetryAfterSegundos();
+    }
+
+    public synchronized Map<String, Object> metricas() {
+        long cantidad = admitidas.sum();
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("limite", (int) limite);
+        metricas.put("enCurso", enCurso);
+        metricas.put("enCola", enCola);
+        metricas.put("admitidas", cantidad);
+        metricas.put("rechazadasColaLlena", rechazadasColaLlena.sum());
+        metricas.put("rechazadasTimeout", rechazadasTimeout.sum());
+        metricas.put("latenciaPromedioMs", cantidad > 0 ? latenciaTotalNanos.sum() / 1_000_000.0 / cantidad : 0);
+        return metricas;
+    }
+}
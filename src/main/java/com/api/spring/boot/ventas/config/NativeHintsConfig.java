@@ -0,0 +1,35 @@
+package com.api.spring.boot.ventas.config;
+
+import com.api.spring.boot.ventas.controller.VentaController;
+import com.api.spring.boot.ventas.dto.DetalleVentaDTO;
+import com.api.spring.boot.ventas.dto.VentaDTO;
+import com.api.spring.boot.ventas.model.Venta;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Hints de reflexión para el build AOT / imagen nativa (perfiles arranque-rapido y native).
+ * Los proxies de methodOn (VentaController, AdminController y sus tipos de retorno) no se
+ * registran aquí: los genera el procesamiento AOT propio de Spring HATEOAS para los controladores.
+ */
+@Configuration
+@RegisterReflectionForBinding({Venta.class, VentaDTO.class, DetalleVentaDTO.class})
+@ImportRuntimeHints(NativeHintsConfig.VentasRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class VentasRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Clase local de /ventas/stats, serializada por Jackson a través de sus campos públicos
+            hints.reflection().registerType(
+                TypeReference.of(VentaController.class.getName() + "$1EstadisticasVentas"),
+                MemberCategory.PUBLIC_FIELDS);
+        }
+    }
+}
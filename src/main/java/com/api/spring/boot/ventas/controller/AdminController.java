@@ -0,0 +1,99 @@
+package com.api.spring.boot.ventas.controller;
+
+import com.api.spring.boot.ventas.service.MetricasService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+/**
+ * Controlador REST de administración: métricas internas del microservicio
+ */
+@RestController
+@RequestMapping("/admin")
+@Tag(name = "Administración", description = "Métricas internas de la API de ventas")
+public class AdminController {
+
+    @Autowired
+    private MetricasService metricasService;
+
+    /**
+     * Estadísticas de Hibernate y tiempos por sentencia SQL
+     */
+    @GetMapping("/sql")
+    @Operation(summary = "Obtener métricas SQL", description = "Retorna las estadísticas de Hibernate y las sentencias SQL con más tiempo acumulado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Métricas SQL obtenidas")
+    })
+    public ResponseEntity<EntityModel<Map<String, Object>>> obtenerMetricasSql(
+            @Parameter(description = "Cantidad de sentencias a retornar") @RequestParam(defaultValue = "20") int limite) {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("hibernate", metricasService.estadisticasHibernate());
+        metricas.put("sentencias", metricasService.estadisticasSentencias(limite));
+
+        EntityModel<Map<String, Object>> entityModel = EntityModel.of(metricas,
+            linkTo(methodOn(AdminController.class).obtenerMetricasSql(limite)).withSelfRel(),
+            linkTo(methodOn(AdminController.class).reiniciarMetricasSql()).withRel("reset")
+        );
+
+        return ResponseEntity.ok(entityModel);
+    }
+
+    /**
+     * Reinicia los contadores SQL
+     */
+    @DeleteMapping("/sql")
+    @Operation(summary = "Reiniciar métricas SQL", description = "Reinicia las estadísticas de Hibernate y los tiempos por sentencia")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Métricas SQL reiniciadas")
+    })
+    public ResponseEntity<String> reiniciarMetricasSql() {
+        metricasService.reiniciarEstadisticasSql();
+        return ResponseEntity.ok("Métricas SQL reiniciadas");
+    }
+
+    /**
+     * Estado del control de admisión por grupo de endpoints
+     */
+    @GetMapping("/admision")
+    @Operation(summary = "Obtener métricas de admisión", description = "Retorna límite adaptativo, peticiones en curso, profundidad de cola y rechazos por grupo de endpoints")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Métricas de admisión obtenidas")
+    })
+    public ResponseEntity<EntityModel<Map<String, Object>>> obtenerMetricasAdmision() {
+        EntityModel<Map<String, Object>> entityModel = EntityModel.of(metricasService.estadisticasAdmision(),
+            linkTo(methodOn(AdminController.class).obtenerMetricasAdmision()).withSelfRel(),
+            linkTo(methodOn(AdminController.class).obtenerMetricasSql(20)).withRel("sql")
+        );
+
+        return ResponseEntity.ok(entityModel);
+    }
+
+    /**
+     * Progreso del job de archivado de boletas antiguas
+     */
+    @GetMapping("/archivo")
+    @Operation(summary = "Obtener progreso del archivado", description = "Retorna el estado, último ID archivado y filas movidas a boleta_archivo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Progreso del archivado obtenido")
+    })
+    public ResponseEntity<EntityModel<Map<String, Object>>> obtenerProgresoArchivo() {
+        EntityModel<Map<String, Object>> entityModel = EntityModel.of(metricasService.progresoArchivo(),
+            linkTo(methodOn(AdminController.class).obtenerProgresoArchivo()).withSelfRel(),
+            linkTo(methodOn(AdminController.class).obtenerMetricasSql(20)).withRel("sql")
+        );
+
+        return ResponseEntity.ok(entityModel);
+    }
+}
@@ -4,8 +4,12 @@ import jakarta.validation.Valid;
 import com.api.spring.boot.ventas.model.Venta;
 import com.api.spring.boot.ventas.dto.VentaDTO;
 import com.api.spring.boot.ventas.service.VentaService;
+import com.api.spring.boot.ventas.service.VentaAnalyticsService;
+import com.api.spring.boot.ventas.service.RankingService;
 import com.api.spring.boot.ventas.client.DetalleVentasClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
@@ -22,6 +26,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,16 +39,32 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
  */
 @RestController
 @RequestMapping("/ventas")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = VentaController.ENCABEZADO_CORTE_ARCHIVO)
 @Tag(name = "Ventas", description = "API para gestión de ventas")
 public class VentaController {
 
+    // Presente cuando la ventana consultada empieza antes del corte del archivado
+    static final String ENCABEZADO_CORTE_ARCHIVO = "X-Archivo-Corte";
+
     @Autowired
     private VentaService ventaService;
 
     @Autowired
     private DetalleVentasClient detalleVentasClient;
 
+    @Autowired
+    private RankingService rankingService;
+
+    // Opcional: sólo existe con ventas.analytics.enabled=true
+    @Autowired(required = false)
+    private VentaAnalyticsService ventaAnalyticsService;
+
+    @Value("${ventas.archivo.enabled:false}")
+    private boolean archivoHabilitado;
+
+    @Value("${ventas.archivo.antiguedad-dias:365}")
+    private int archivoAntiguedadDias;
+
     /**
      * Obtiene todas las ventas con enlaces HATEOAS
      */
@@ -140,15 +161,34 @@ public class VentaController {
     })
     public ResponseEntity<?> eliminarVenta(
             @Parameter(description = "ID de la venta a eliminar") @PathVariable Long id) {
-        Venta existente = ventaService.obtenerPorId(id);
-        if (existente != null) {
-            ventaService.eliminar(id);
+        if (ventaService.eliminar(id)) {
             return ResponseEntity.ok("Venta eliminada exitosamente");
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Venta no encontrada");
         }
     }
 
+    /**
+     * Elimina varias ventas por ID en una sola sentencia
+     */
+    @DeleteMapping
+    @Operation(summary = "Eliminar ventas", description = "Elimina las ventas indicadas (máximo 1000 IDs por solicitud)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ventas eliminadas"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs inválida")
+    })
+    public ResponseEntity<?> eliminarVentas(
+            @Parameter(description = "IDs de las ventas a eliminar, ej: 1,2,3") @RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > 1000) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("ids debe contener entre 1 y 1000 elementos");
+        }
+        int eliminadas = ventaService.eliminarVarias(ids);
+        return ResponseEntity.ok(Map.of(
+            "solicitadas", ids.size(),
+            "eliminadas", eliminadas
+        ));
+    }
+
     /**
      * Nuevo endpoint: Obtener estadísticas básicas de ventas
      */
@@ -321,6 +361,129 @@ public class VentaController {
         return ResponseEntity.ok(entityModel);
     }
 
+    /**
+     * endpoint: Ranking Top-N de clientes por ingresos o cantidad de boletas
+     */
+    @GetMapping("/ranking/clientes")
+    @Operation(summary = "Ranking de clientes", description = "Retorna los N clientes con más ingresos o boletas en una ventana de fechas (por defecto, últimos 30 días)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranking de clientes obtenido"),
+        @ApiResponse(responseCode = "400", description = "Parámetros de ranking inválidos")
+    })
+    public ResponseEntity<?> rankingClientes(
+            @Parameter(description = "Fecha inicial (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Fecha final (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @Parameter(description = "Criterio: ingresos o boletas") @RequestParam(defaultValue = "ingresos") String criterio,
+            @Parameter(description = "Cantidad de posiciones (1-100)") @RequestParam(defaultValue = "10") int limite) {
+        LocalDate fin = hasta != null ? hasta : LocalDate.now();
+        LocalDate inicio = desde != null ? desde : fin.minusDays(30);
+
+        List<Map<String, Object>> ranking;
+        try {
+            ranking = rankingService.rankingClientes(inicio, fin, RankingService.Criterio.desde(criterio), limite);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+
+        EntityModel<List<Map<String, Object>>> entityModel = EntityModel.of(ranking,
+            linkTo(methodOn(VentaController.class).rankingClientes(inicio, fin, criterio, limite)).withSelfRel(),
+            linkTo(methodOn(VentaController.class).rankingVendedores(inicio, fin, criterio, limite)).withRel("ranking-vendedores"),
+            linkTo(methodOn(VentaController.class).listarVentas()).withRel("ventas"),
+            Link.of("http://localhost:8888/ventas/ranking/clientes").withRel("gateway")
+        );
+
+        return respuestaConCorteArchivo(inicio).body(entityModel);
+    }
+
+    /**
+     * endpoint: Ranking Top-N de vendedores por ingresos o cantidad de boletas
+     */
+    @GetMapping("/ranking/vendedores")
+    @Operation(summary = "Ranking de vendedores", description = "Retorna los N vendedores con más ingresos o boletas en una ventana de fechas (por defecto, últimos 30 días)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranking de vendedores obtenido"),
+        @ApiResponse(responseCode = "400", description = "Parámetros de ranking inválidos")
+    })
+    public ResponseEntity<?> rankingVendedores(
+            @Parameter(description = "Fecha inicial (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Fecha final (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @Parameter(description = "Criterio: ingresos o boletas") @RequestParam(defaultValue = "ingresos") String criterio,
+            @Parameter(description = "Cantidad de posiciones (1-100)") @RequestParam(defaultValue = "10") int limite) {
+        LocalDate fin = hasta != null ? hasta : LocalDate.now();
+        LocalDate inicio = desde != null ? desde : fin.minusDays(30);
+
+        List<Map<String, Object>> ranking;
+        try {
+            ranking = rankingService.rankingVendedores(inicio, fin, RankingService.Criterio.desde(criterio), limite);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+
+        EntityModel<List<Map<String, Object>>> entityModel = EntityModel.of(ranking,
+            linkTo(methodOn(VentaController.class).rankingVendedores(inicio, fin, criterio, limite)).withSelfRel(),
+            linkTo(methodOn(VentaController.class).rankingClientes(inicio, fin, criterio, limite)).withRel("ranking-clientes"),
+            linkTo(methodOn(VentaController.class).listarVentas()).withRel("ventas"),
+            Link.of("http://localhost:8888/ventas/ranking/vendedores").withRel("gateway")
+        );
+
+        return respuestaConCorteArchivo(inicio).body(entityModel);
+    }
+
+    /**
+     * endpoint: Consultas analíticas ad-hoc (filtro, agrupación y suma) sobre el snapshot en memoria
+     */
+    @GetMapping("/analytics")
+    @Operation(summary = "Consultar analítica de ventas",
+               description = "Filtra y agrupa las ventas por cliente, vendedor, metodopago, dia, semana o mes sobre un snapshot columnar en memoria")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado de la consulta analítica"),
+        @ApiResponse(responseCode = "400", description = "Dimensión de agrupación inválida"),
+        @ApiResponse(responseCode = "503", description = "Motor de analítica deshabilitado")
+    })
+    public ResponseEntity<?> consultarAnalitica(
+            @Parameter(description = "Fecha inicial (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Fecha final (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @Parameter(description = "ID del cliente") @RequestParam(required = false) Long idCliente,
+            @Parameter(description = "ID del vendedor") @RequestParam(required = false) Long idVendedor,
+            @Parameter(description = "ID del método de pago") @RequestParam(required = false) Long idMetodoPago,
+            @Parameter(description = "Dimensiones de agrupación, ej: vendedor,metodopago,semana") @RequestParam(required = false) List<String> agruparPor,
+            @Parameter(description = "Máximo de grupos a retornar") @RequestParam(defaultValue = "100") int limite) {
+        if (ventaAnalyticsService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Motor de analítica deshabilitado");
+        }
+
+        Map<String, Object> resultado;
+        try {
+            resultado = ventaAnalyticsService.consultar(desde, hasta, idCliente, idVendedor, idMetodoPago, agruparPor, limite);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+
+        EntityModel<Map<String, Object>> entityModel = EntityModel.of(resultado,
+            linkTo(methodOn(VentaController.class).consultarAnalitica(desde, hasta, idCliente, idVendedor, idMetodoPago, agruparPor, limite)).withSelfRel(),
+            linkTo(methodOn(VentaController.class).obtenerEstadisticas()).withRel("stats-ventas"),
+            linkTo(methodOn(VentaController.class).listarVentas()).withRel("ventas"),
+            Link.of("http://localhost:8888/ventas/analytics").withRel("gateway")
+        );
+
+        return respuestaConCorteArchivo(desde).body(entityModel);
+    }
+
+    /**
+     * Rankings y analítica leen sólo boleta: si la ventana empieza antes del corte del archivado,
+     * las boletas movidas a boleta_archivo no se cuentan y se avisa con el encabezado X-Archivo-Corte
+     */
+    private ResponseEntity.BodyBuilder respuestaConCorteArchivo(LocalDate desde) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (archivoHabilitado) {
+            LocalDate corte = LocalDate.now().minusDays(archivoAntiguedadDias);
+            if (desde == null || desde.isBefore(corte)) {
+                respuesta.header(ENCABEZADO_CORTE_ARCHIVO, corte.toString());
+            }
+        }
+        return respuesta;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<String> handleValidation(MethodArgumentNotValidException ex) {
         String mensaje = ex.getBindingResult().getFieldErrors().stream()
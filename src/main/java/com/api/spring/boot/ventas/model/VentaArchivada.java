@@ -0,0 +1,67 @@
+package com.api.spring.boot.ventas.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Venta movida a la tabla boleta_archivo por el job de archivado (sólo lectura)
+ */
+@Entity
+@Table(name = "boleta_archivo")
+public class VentaArchivada {
+
+    @Id
+    private Long id_venta;
+
+    private Long id_cliente;
+
+    private Long id_vendedor;
+
+    @Column(name = "fecha_venta")
+    private LocalDate fechaVenta;
+
+    private Double total;
+
+    private Long id_metodopago;
+
+    // Constructor vacío
+    public VentaArchivada() {}
+
+    // Convierte a Venta para responder por los mismos endpoints
+    public Venta aVenta() {
+        Venta venta = new Venta();
+        venta.setId_venta(id_venta);
+        venta.setId_cliente(id_cliente);
+        venta.setId_vendedor(id_vendedor);
+        venta.setFechaVenta(fechaVenta);
+        venta.setTotal(total);
+        venta.setId_metodopago(id_metodopago);
+        return venta;
+    }
+
+    // Getters
+    public Long getId_venta() {
+        return id_venta;
+    }
+
+    public Long getId_cliente() {
+        return id_cliente;
+    }
+
+    public Long getId_vendedor() {
+        return id_vendedor;
+    }
+
+    public LocalDate getFechaVenta() {
+        return fechaVenta;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+
+    public Long getId_metodopago() {
+        return id_metodopago;
+    }
+}
@@ -0,0 +1,20 @@
+package com.api.spring.boot.ventas.repository;
+
+import com.api.spring.boot.ventas.model.VentaArchivada;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface VentaArchivadaRepository extends JpaRepository<VentaArchivada, Long> {
+
+    @Modifying
+    @Query("delete from VentaArchivada v where v.id_venta = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from VentaArchivada v where v.id_venta in :ids")
+    int eliminarPorIds(@Param("ids") Collection<Long> ids);
+}
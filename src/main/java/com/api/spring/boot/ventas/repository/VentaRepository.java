@@ -1,6 +1,75 @@
 package com.api.spring.boot.ventas.repository;
 
 import com.api.spring.boot.ventas.model.Venta;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface VentaRepository extends JpaRepository<Venta, Long> {}
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface VentaRepository extends JpaRepository<Venta, Long> {
+
+    /**
+     * Eliminación en una sola sentencia, sin cargar la entidad
+     */
+    @Modifying
+    @Query("delete from Venta v where v.id_venta = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Venta v where v.id_venta in :ids")
+    int eliminarPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Proyección de columnas de boleta a partir de un id (paginación por keyset).
+     * Cada fila: id_venta, id_cliente, id_vendedor, fechaVenta, total, id_metodopago
+     */
+    @Query("select v.id_venta, v.id_cliente, v.id_vendedor, v.fechaVenta, v.total, v.id_metodopago " +
+           "from Venta v where v.id_venta > :desde order by v.id_venta")
+    List<Object[]> proyectarDesde(@Param("desde") Long desde, Pageable pageable);
+
+    /**
+     * Ranking de clientes en una ventana de fechas. Cada fila: id_cliente, cantidad, total
+     */
+    @Query("select v.id_cliente, count(v), sum(v.total) from Venta v " +
+           "where v.fechaVenta between :desde and :hasta group by v.id_cliente order by sum(v.total) desc, v.id_cliente")
+    List<Object[]> rankingClientesPorIngresos(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta, Pageable pageable);
+
+    @Query("select v.id_cliente, count(v), sum(v.total) from Venta v " +
+           "where v.fechaVenta between :desde and :hasta group by v.id_cliente order by count(v) desc, v.id_cliente")
+    List<Object[]> rankingClientesPorBoletas(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta, Pageable pageable);
+
+    /**
+     * Ranking de vendedores en una ventana de fechas. Cada fila: id_vendedor, cantidad, total
+     */
+    @Query("select v.id_vendedor, count(v), sum(v.total) from Venta v " +
+           "where v.fechaVenta between :desde and :hasta group by v.id_vendedor order by sum(v.total) desc, v.id_vendedor")
+    List<Object[]> rankingVendedoresPorIngresos(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta, Pageable pageable);
+
+    @Query("select v.id_vendedor, count(v), sum(v.total) from Venta v " +
+           "where v.fechaVenta between :desde and :hasta group by v.id_vendedor order by count(v) desc, v.id_vendedor")
+    List<Object[]> rankingVendedoresPorBoletas(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta, Pageable pageable);
+
+    /**
+     * Siguiente lote de ids a archivar (keyset sobre la clave primaria).
+     * El filtro por fecha usa idx_boleta_fecha_id (db/boleta_archivo.sql), así cada ejecución
+     * lee sólo las boletas anteriores al corte en vez de recorrer toda la tabla
+     */
+    @Query(value = "select id_venta from boleta where id_venta > :desde and fecha_venta < :corte " +
+                   "order by id_venta limit :limite", nativeQuery = true)
+    List<Long> idsParaArchivar(@Param("desde") Long desde, @Param("corte") LocalDate corte, @Param("limite") int limite);
+
+    @Modifying
+    @Query(value = "insert into boleta_archivo (id_venta, id_cliente, id_vendedor, fecha_venta, total, id_metodopago) " +
+                   "select id_venta, id_cliente, id_vendedor, fecha_venta, total, id_metodopago from boleta " +
+                   "where id_venta between :desde and :hasta and fecha_venta < :corte", nativeQuery = true)
+    int copiarAlArchivo(@Param("desde") Long desde, @Param("hasta") Long hasta, @Param("corte") LocalDate corte);
+
+    @Modifying
+    @Query(value = "delete from boleta where id_venta between :desde and :hasta and fecha_venta < :corte", nativeQuery = true)
+    int eliminarArchivadas(@Param("desde") Long desde, @Param("hasta") Long hasta, @Param("corte") LocalDate corte);
+}
@@ -0,0 +1,114 @@
+package com.api.spring.boot.ventas.service;
+
+import com.api.spring.boot.ventas.repository.VentaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job de archivado: mueve las boletas más antiguas que ventas.archivo.antiguedad-dias
+ * desde boleta a boleta_archivo, en lotes ordenados por id_venta (keyset).
+ * Cada lote es un INSERT ... SELECT y un DELETE en la misma transacción, seguido de una pausa.
+ */
+@Service
+@ConditionalOnProperty(name = "ventas.archivo.enabled", havingValue = "true")
+public class ArchivoVentasService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivoVentasService.class);
+
+    @Autowired
+    private VentaRepository repo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${ventas.archivo.antiguedad-dias:365}")
+    private int antiguedadDias;
+
+    @Value("${ventas.archivo.tamano-lote:1000}")
+    private int tamanoLote;
+
+    @Value("${ventas.archivo.pausa-ms:200}")
+    private long pausaMs;
+
+    // Punto de control de la ejecución en curso o de la última ejecución
+    private volatile String estado = "sin ejecutar";
+    private volatile long ultimoIdArchivado;
+    private volatile long lotes;
+    private volatile long filasArchivadas;
+    private volatile Instant inicio;
+    private volatile Instant fin;
+
+    @Scheduled(cron = "${ventas.archivo.cron:0 0 3 * * *}")
+    public synchronized void archivar() {
+        LocalDate corte = LocalDate.now().minusDays(antiguedadDias);
+        estado = "en ejecución";
+        ultimoIdArchivado = 0L;
+        lotes = 0;
+        filasArchivadas = 0;
+        inicio = Instant.now();
+        fin = null;
+        log.info("Archivado iniciado: boletas con fecha_venta < {}", corte);
+
+        try {
+            List<Long> ids;
+            while (!(ids = repo.idsParaArchivar(ultimoIdArchivado, corte, tamanoLote)).isEmpty()) {
+                long desde = ids.get(0);
+                long hasta = ids.get(ids.size() - 1);
+
+                Integer movidas = transactionTemplate.execute(status -> {
+                    int copiadas = repo.copiarAlArchivo(desde, hasta, corte);
+                    int eliminadas = repo.eliminarArchivadas(desde, hasta, corte);
+                    if (copiadas != eliminadas) {
+                        throw new IllegalStateException("Lote " + desde + "-" + hasta + ": copiadas " + copiadas
+                            + " y eliminadas " + eliminadas);
+                    }
+                    return eliminadas;
+                });
+
+                ultimoIdArchivado = hasta;
+                lotes++;
+                filasArchivadas += movidas != null ? movidas : 0;
+                log.info("Archivado lote {}: ids {}-{}, {} filas (total {})", lotes, desde, hasta, movidas, filasArchivadas);
+
+                if (ids.size() < tamanoLote) {
+                    break;
+                }
+                Thread.sleep(pausaMs);
+            }
+            estado = "completado";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            estado = "interrumpido";
+        } catch (RuntimeException e) {
+            estado = "error: " + e.getMessage();
+            log.error("Archivado detenido en id {}", ultimoIdArchivado, e);
+        } finally {
+            fin = Instant.now();
+            log.info("Archivado {}: {} filas en {} lotes", estado, filasArchivadas, lotes);
+        }
+    }
+
+    public Map<String, Object> progreso() {
+        Map<String, Object> progreso = new LinkedHashMap<>();
+        progreso.put("estado", estado);
+        progreso.put("antiguedadDias", antiguedadDias);
+        progreso.put("ultimoIdArchivado", ultimoIdArchivado);
+        progreso.put("lotes", lotes);
+        progreso.put("filasArchivadas", filasArchivadas);
+        progreso.put("inicio", inicio != null ? inicio.toString() : null);
+        progreso.put("fin", fin != null ? fin.toString() : null);
+        return progreso;
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.spring.boot.ventas.service;
+
+import com.api.spring.boot.ventas.config.AdmisionFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Service que reúne las métricas internas expuestas en /admin
+@Service
+public class MetricasService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RegistroConsultasSql registroConsultasSql;
+
+    // Opcional: sólo existe con ventas.admision.enabled=true
+    @Autowired(required = false)
+    private AdmisionFilter admisionFilter;
+
+    // Opcional: sólo existe con ventas.archivo.enabled=true
+    @Autowired(required = false)
+    private ArchivoVentasService archivoVentasService;
+
+    /**
+     * Estadísticas de Hibernate (requiere hibernate.generate_statistics=true)
+     */
+    public Map<String, Object> estadisticasHibernate() {
+        Statistics stats = estadisticas();
+
+        Map<String, Object> cacheSegundoNivel = new LinkedHashMap<>();
+        cacheSegundoNivel.put("aciertos", stats.getSecondLevelCacheHitCount());
+        cacheSegundoNivel.put("fallos", stats.getSecondLevelCacheMissCount());
+        cacheSegundoNivel.put("escrituras", stats.getSecondLevelCachePutCount());
+        cacheSegundoNivel.put("ratioAciertos", ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()));
+
+        Map<String, Object> cacheConsultas = new LinkedHashMap<>();
+        cacheConsultas.put("aciertos", stats.getQueryCacheHitCount());
+        cacheConsultas.put("fallos", stats.getQueryCacheMissCount());
+        cacheConsultas.put("escrituras", stats.getQueryCachePutCount());
+        cacheConsultas.put("ratioAciertos", ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()));
+
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("habilitadas", stats.isStatisticsEnabled());
+        hibernate.put("sesionesAbiertas", stats.getSessionOpenCount());
+        hibernate.put("sentenciasPreparadas", stats.getPrepareStatementCount());
+        hibernate.put("entidadesCargadas", stats.getEntityLoadCount());
+        hibernate.put("entidadesObtenidas", stats.getEntityFetchCount());
+        hibernate.put("entidadesInsertadas", stats.getEntityInsertCount());
+        hibernate.put("entidadesActualizadas", stats.getEntityUpdateCount());
+        hibernate.put("entidadesEliminadas", stats.getEntityDeleteCount());
+        hibernate.put("consultasEjecutadas", stats.getQueryExecutionCount());
+        hibernate.put("consultaMasLenta", stats.getQueryExecutionMaxTimeQueryString());
+        hibernate.put("consultaMasLentaMs", stats.getQueryExecutionMaxTime());
+        hibernate.put("transacciones", stats.getTransactionCount());
+        hibernate.put("cacheSegundoNivel", cacheSegundoNivel);
+        hibernate.put("cacheConsultas", cacheConsultas);
+        return hibernate;
+    }
+
+    /**
+     * Tiempos por sentencia SQL medidos en el DataSource
+     */
+    public Map<String, Object> estadisticasSentencias(int limite) {
+        return registroConsultasSql.resumen(limite);
+    }
+
+    /**
+     * Límite, cola y rechazos de cada grupo de endpoints
+     */
+    public Map<String, Object> estadisticasAdmision() {
+        return admisionFilter != null ? admisionFilter.metricas() : Map.of();
+    }
+
+    /**
+     * Punto de control del job de archivado de boletas
+     */
+    public Map<String, Object> progresoArchivo() {
+        return archivoVentasService != null ? archivoVentasService.progreso() : Map.of("estado", "deshabilitado");
+    }
+
+    public void reiniciarEstadisticasSql() {
+        estadisticas().clear();
+        registroConsultasSql.limpiar();
+    }
+
+    private Statistics estadisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static double ratio(long aciertos, long fallos) {
+        long total = aciertos + fallos;
+        return total > 0 ? (double) aciertos / total : 0.0;
+    }
+}
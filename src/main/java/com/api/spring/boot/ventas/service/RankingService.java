@@ -0,0 +1,90 @@
+package com.api.spring.boot.ventas.service;
+
+import com.api.spring.boot.ventas.repository.VentaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Service para los rankings Top-N de clientes y vendedores.
+ * La agregación y el límite se resuelven en MySQL (GROUP BY ... ORDER BY ... LIMIT)
+ * y el resultado se cachea por ventana de fechas, criterio y límite
+ * (caché Caffeine acotada en tamaño y vigencia, ver spring.cache.caffeine.spec).
+ */
+@Service
+public class RankingService {
+
+    public static final String CACHE_CLIENTES = "ranking-clientes";
+    public static final String CACHE_VENDEDORES = "ranking-vendedores";
+
+    private static final int LIMITE_MAXIMO = 100;
+
+    @Autowired
+    private VentaRepository repo;
+
+    /**
+     * Criterio de orden del ranking; normaliza el parámetro antes de usarlo como clave de caché
+     */
+    public enum Criterio {
+        INGRESOS, BOLETAS;
+
+        public static Criterio desde(String nombre) {
+            try {
+                return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("criterio debe ser 'ingresos' o 'boletas'");
+            }
+        }
+    }
+
+    @Cacheable(CACHE_CLIENTES)
+    public List<Map<String, Object>> rankingClientes(LocalDate desde, LocalDate hasta, Criterio criterio, int limite) {
+        Pageable pagina = pagina(desde, hasta, limite);
+        List<Object[]> filas = criterio == Criterio.INGRESOS
+            ? repo.rankingClientesPorIngresos(desde, hasta, pagina)
+            : repo.rankingClientesPorBoletas(desde, hasta, pagina);
+        return aRanking(filas, "idCliente");
+    }
+
+    @Cacheable(CACHE_VENDEDORES)
+    public List<Map<String, Object>> rankingVendedores(LocalDate desde, LocalDate hasta, Criterio criterio, int limite) {
+        Pageable pagina = pagina(desde, hasta, limite);
+        List<Object[]> filas = criterio == Criterio.INGRESOS
+            ? repo.rankingVendedoresPorIngresos(desde, hasta, pagina)
+            : repo.rankingVendedoresPorBoletas(desde, hasta, pagina);
+        return aRanking(filas, "idVendedor");
+    }
+
+    private static Pageable pagina(LocalDate desde, LocalDate hasta, int limite) {
+        if (desde.isAfter(hasta)) {
+            throw new IllegalArgumentException("desde no puede ser posterior a hasta");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("limite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        return PageRequest.of(0, limite);
+    }
+
+    private static List<Map<String, Object>> aRanking(List<Object[]> filas, String campoId) {
+        List<Map<String, Object>> ranking = new ArrayList<>(filas.size());
+        int posicion = 1;
+        for (Object[] fila : filas) {
+            Map<String, Object> entrada = new LinkedHashMap<>();
+            entrada.put("posicion", posicion++);
+            entrada.put(campoId, fila[0]);
+            entrada.put("cantidadVentas", fila[1]);
+            entrada.put("totalVentas", fila[2] != null ? fila[2] : 0.0);
+            ranking.add(entrada);
+        }
+        return ranking;
+    }
+}
@@ -0,0 +1,143 @@
+package com.api.spring.boot.ventas.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de tiempos por sentencia SQL (alimentado por InstrumentacionSqlConfig).
+ * Las sentencias que superan el umbral se escriben en el log de consultas lentas
+ * junto al método de service que las originó.
+ */
+@Service
+public class RegistroConsultasSql {
+
+    private static final Logger logLentas = LoggerFactory.getLogger("com.api.spring.boot.ventas.sql.SLOW");
+
+    private static final String PAQUETE_SERVICE = "com.api.spring.boot.ventas.service.";
+    private static final int MAX_SENTENCIAS = 1000;
+    private static final String OTRAS = "(otras sentencias)";
+
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern LITERAL_NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    // Hibernate expande "in :ids" a "in (?,?,...)" con un '?' por elemento
+    private static final Pattern LISTA_IN = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final Map<String, Estadistica> sentencias = new ConcurrentHashMap<>();
+    private final long umbralNanos;
+
+    public RegistroConsultasSql(@Value("${ventas.sql.slow-query-threshold-ms:200}") long umbralMs) {
+        this.umbralNanos = TimeUnit.MILLISECONDS.toNanos(umbralMs);
+    }
+
+    /**
+     * Registra una ejecución. El origen se calcula sólo para las sentencias lentas.
+     */
+    public void registrar(String sql, long nanos) {
+        String sentencia = sql != null ? sql : "(batch)";
+        String clave = sentencia;
+        Estadistica estadistica = sentencias.get(clave);
+        if (estadistica == null) {
+            if (sentencias.size() >= MAX_SENTENCIAS) {
+                clave = OTRAS;
+            }
+            estadistica = sentencias.computeIfAbsent(clave, k -> new Estadistica());
+        }
+        estadistica.ejecuciones.increment();
+        estadistica.totalNanos.add(nanos);
+        estadistica.maxNanos.accumulateAndGet(nanos, Math::max);
+
+        if (nanos >= umbralNanos) {
+            estadistica.lentas.increment();
+            logLentas.warn("consulta lenta {} ms origen={} sql={}",
+                TimeUnit.NANOSECONDS.toMillis(nanos), origen(), sentencia);
+        }
+    }
+
+    /**
+     * Normaliza una sentencia para usarla como clave: literales a '?' y listas IN a "in (?...)",
+     * para que cada tamaño de lista no cuente como una sentencia distinta
+     */
+    public static String sinParametros(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String sinTexto = LITERAL_TEXTO.matcher(sql).replaceAll("?");
+        String sinNumeros = LITERAL_NUMERO.matcher(sinTexto).replaceAll("?");
+        return LISTA_IN.matcher(sinNumeros).replaceAll("in (?...)");
+    }
+
+    /**
+     * Resumen de las sentencias con más tiempo acumulado
+     */
+    public Map<String, Object> resumen(int limite) {
+        long ejecuciones = 0;
+        long lentas = 0;
+        for (Estadistica e : sentencias.values()) {
+            ejecuciones += e.ejecuciones.sum();
+            lentas += e.lentas.sum();
+        }
+
+        List<Map<String, Object>> top = sentencias.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, Estadistica> e) -> e.getValue().totalNanos.sum()).reversed())
+            .limit(Math.max(0, limite))
+            .map(e -> e.getValue().aMapa(e.getKey()))
+            .toList();
+
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("umbralLentaMs", TimeUnit.NANOSECONDS.toMillis(umbralNanos));
+        resumen.put("sentenciasDistintas", sentencias.size());
+        resumen.put("ejecuciones", ejecuciones);
+        resumen.put("lentas", lentas);
+        resumen.put("top", top);
+        return resumen;
+    }
+
+    public void limpiar() {
+        sentencias.clear();
+    }
+
+    /**
+     * Primer método de service en la pila (sin contar los proxies de Spring)
+     */
+    private static String origen() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(f -> f.getClassName().startsWith(PAQUETE_SERVICE)
+                && !f.getClassName().contains("$$")
+                && !f.getClassName().equals(RegistroConsultasSql.class.getName()))
+            .findFirst()
+            .map(f -> f.getClassName().substring(PAQUETE_SERVICE.length()) + "." + f.getMethodName())
+            .orElse("desconocido"));
+    }
+
+    private static final class Estadistica {
+        final LongAdder ejecuciones = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAdder lentas = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        Map<String, Object> aMapa(String sql) {
+            long cantidad = ejecuciones.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> mapa = new LinkedHashMap<>();
+            mapa.put("sql", sql);
+            mapa.put("ejecuciones", cantidad);
+            mapa.put("totalMs", total / 1_000_000.0);
+            mapa.put("promedioMs", cantidad > 0 ? total / 1_000_000.0 / cantidad : 0);
+            mapa.put("maxMs", maxNanos.get() / 1_000_000.0);
+            mapa.put("lentas", lentas.sum());
+            return mapa;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.api.spring.boot.ventas.service;
+
+import com.api.spring.boot.ventas.repository.VentaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Motor de analítica en memoria sobre la tabla boleta.
+ * Mantiene las ventas como columnas primitivas (ids long, días epoch int, totales en centavos)
+ * y resuelve filtros y agrupaciones ad-hoc con recorridos fork-join, sin consultar MySQL.
+ *
+ * El snapshot se refresca de forma incremental (filas con id mayor al último cargado) y se
+ * reconstruye completo cada cierto número de ciclos para reflejar eliminaciones.
+ * Una fila cuyo id IDENTITY se asignó antes que otro mayor pero se confirmó después queda
+ * fuera hasta la siguiente reconstrucción: como máximo refresh-ms * full-rebuild-every.
+ */
+@Service
+@ConditionalOnProperty(name = "ventas.analytics.enabled", havingValue = "true")
+public class VentaAnalyticsService {
+
+    private static final int TAMANO_LOTE = 10_000;
+    private static final int UMBRAL_SECUENCIAL = 1 << 16;
+    private static final long SIN_FILTRO = Long.MIN_VALUE;
+
+    @Autowired
+    private VentaRepository repo;
+
+    @Value("${ventas.analytics.full-rebuild-every:120}")
+    private int reconstruirCada;
+
+    private volatile Columnas columnas = Columnas.vacias();
+    private volatile Instant actualizado;
+    private int ciclos;
+
+    /**
+     * Dimensiones disponibles para agrupar
+     */
+    public enum Dimension {
+        CLIENTE, VENDEDOR, METODOPAGO, DIA, SEMANA, MES;
+
+        static Dimension desde(String nombre) {
+            try {
+                return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Dimensión no soportada: " + nombre
+                    + " (valores: " + Arrays.toString(values()).toLowerCase(Locale.ROOT) + ")");
+            }
+        }
+
+        String nombre() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Refresca el snapshot: incremental en cada ciclo, completo cada N ciclos
+     */
+    @Scheduled(initialDelayString = "${ventas.analytics.initial-delay-ms:0}",
+               fixedDelayString = "${ventas.analytics.refresh-ms:30000}")
+    public synchronized void refrescar() {
+        boolean completo = actualizado == null || (reconstruirCada > 0 && ++ciclos >= reconstruirCada);
+        if (completo) {
+            ciclos = 0;
+        }
+        Columnas base = completo ? Columnas.vacias() : columnas;
+        long ultimoId = base.tamano > 0 ? base.id[base.tamano - 1] : 0L;
+
+        List<Object[]> lote;
+        do {
+            lote = repo.proyectarDesde(ultimoId, PageRequest.of(0, TAMANO_LOTE));
+            if (!lote.isEmpty()) {
+                base = base.agregar(lote);
+                ultimoId = base.id[base.tamano - 1];
+            }
+        } while (lote.size() == TAMANO_LOTE);
+
+        columnas = base;
+        actualizado = Instant.now();
+    }
+
+    /**
+     * Agrega filas al snapshot (mismo formato que VentaRepository.proyectarDesde)
+     */
+    synchronized void cargar(List<Object[]> filas) {
+        columnas = columnas.agregar(filas);
+        actualizado = Instant.now();
+    }
+
+    /**
+     * Filtra y agrupa las ventas del snapshot, sumando cantidad y total por grupo
+     */
+    public Map<String, Object> consultar(LocalDate desde, LocalDate hasta, Long idCliente, Long idVendedor,
+                                         Long idMetodoPago, List<String> agruparPor, int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("limite debe ser mayor a 0");
+        }
+        long inicio = System.nanoTime();
+        Dimension[] dimensiones = agruparPor == null ? new Dimension[0]
+            : agruparPor.stream().filter(s -> !s.isBlank()).map(Dimension::desde).distinct().toArray(Dimension[]::new);
+
+        Consulta consulta = new Consulta(columnas, dimensiones,
+            desde != null ? (int) desde.toEpochDay() : Integer.MIN_VALUE,
+            hasta != null ? (int) hasta.toEpochDay() : Integer.MAX_VALUE,
+            idCliente != null ? idCliente : SIN_FILTRO,
+            idVendedor != null ? idVendedor : SIN_FILTRO,
+            idMetodoPago != null ? idMetodoPago : SIN_FILTRO);
+
+        Map<Clave, long[]> grupos = ForkJoinPool.commonPool()
+            .invoke(new Escaneo(consulta, 0, consulta.columnas.tamano));
+
+        // Mayor total primero; los empates se ordenan por la clave del grupo para respuestas estables
+        List<Map.Entry<Clave, long[]>> ordenados = new ArrayList<>(grupos.entrySet());
+        ordenados.sort((a, b) -> {
+            int porTotal = Long.compare(b.getValue()[1], a.getValue()[1]);
+            return porTotal != 0 ? porTotal : Arrays.compare(a.getKey().valores, b.getKey().valores);
+        });
+
+        long coincidentes = 0;
+        List<Map<String, Object>> filas = new ArrayList<>(ordenados.size());
+        for (Map.Entry<Clave, long[]> entrada : ordenados) {
+            long[] acumulado = entrada.getValue();
+            coincidentes += acumulado[0];
+            Map<String, Object> fila = new LinkedHashMap<>();
+            for (int d = 0; d < dimensiones.length; d++) {
+                fila.put(dimensiones[d].nombre(), formatear(dimensiones[d], entrada.getKey().valores[d]));
+            }
+            fila.put("cantidadVentas", acumulado[0]);
+            fila.put("totalVentas", BigDecimal.valueOf(acumulado[1], 2));
+            filas.add(fila);
+        }
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("agruparPor", Arrays.stream(dimensiones).map(Dimension::nombre).toList());
+        resultado.put("grupos", filas.size());
+        resultado.put("filas", filas.size() > limite ? filas.subList(0, limite) : filas);
+        resultado.put("filasCoincidentes", coincidentes);
+        resultado.put("filasEscaneadas", consulta.columnas.tamano);
+        resultado.put("snapshotActualizado", actualizado != null ? actualizado.toString() : null);
+        resultado.put("tiempoMs", (System.nanoTime() - inicio) / 1_000_000.0);
+        return resultado;
+    }
+
+    private static Object formatear(Dimension dimension, long valor) {
+        switch (dimension) {
+            case DIA:
+            case SEMANA:
+                return LocalDate.ofEpochDay(valor).toString();
+            case MES:
+                return String.format("%04d-%02d", valor / 12, valor % 12 + 1);
+            default:
+                return valor;
+        }
+    }
+
+    /**
+     * Columnas primitivas de boleta. Las instancias son inmutables hasta su tamaño:
+     * agregar filas escribe después de ese límite y publica una instancia nueva.
+     */
+    static final class Columnas {
+        final long[] id;
+        final long[] cliente;
+        final long[] vendedor;
+        final int[] dia;
+        // Año * 12 + mes - 1, precalculado al cargar para no crear LocalDate en el recorrido
+        final int[] mes;
+        final long[] centavos;
+        final long[] metodoPago;
+        final int tamano;
+
+        private Columnas(long[] id, long[] cliente, long[] vendedor, int[] dia, int[] mes,
+                         long[] centavos, long[] metodoPago, int tamano) {
+            this.id = id;
+            this.cliente = cliente;
+            this.vendedor = vendedor;
+            this.dia = dia;
+            this.mes = mes;
+            this.centavos = centavos;
+            this.metodoPago = metodoPago;
+            this.tamano = tamano;
+        }
+
+        static Columnas vacias() {
+            return new Columnas(new long[0], new long[0], new long[0], new int[0], new int[0], new long[0], new long[0], 0);
+        }
+
+        Columnas agregar(List<Object[]> filas) {
+            int requerido = tamano + filas.size();
+            Columnas destino = this;
+            if (requerido > id.length) {
+                int capacidad = Math.max(requerido, id.length + (id.length >> 1));
+                destino = new Columnas(Arrays.copyOf(id, capacidad), Arrays.copyOf(cliente, capacidad),
+                    Arrays.copyOf(vendedor, capacidad), Arrays.copyOf(dia, capacidad), Arrays.copyOf(mes, capacidad),
+                    Arrays.copyOf(centavos, capacidad), Arrays.copyOf(metodoPago, capacidad), tamano);
+            }
+            int i = tamano;
+            for (Object[] fila : filas) {
+                destino.id[i] = aLong(fila[0]);
+                destino.cliente[i] = aLong(fila[1]);
+                destino.vendedor[i] = aLong(fila[2]);
+                LocalDate fecha = fila[3] != null ? (LocalDate) fila[3] : LocalDate.EPOCH;
+                destino.dia[i] = (int) fecha.toEpochDay();
+                destino.mes[i] = fecha.getYear() * 12 + fecha.getMonthValue() - 1;
+                destino.centavos[i] = fila[4] != null ? Math.round(((Number) fila[4]).doubleValue() * 100) : 0L;
+                destino.metodoPago[i] = aLong(fila[5]);
+                i++;
+            }
+            return new Columnas(destino.id, destino.cliente, destino.vendedor, destino.dia, destino.mes,
+                destino.centavos, destino.metodoPago, requerido);
+        }
+
+        private static long aLong(Object valor) {
+            return valor != null ? ((Number) valor).longValue() : 0L;
+        }
+    }
+
+    /**
+     * Parámetros de una consulta resueltos a primitivos
+     */
+    private static final class Consulta {
+        final Columnas columnas;
+        final Dimension[] dimensiones;
+        final int diaDesde;
+        final int diaHasta;
+        final long cliente;
+        final long vendedor;
+        final long metodoPago;
+
+        Consulta(Columnas columnas, Dimension[] dimensiones, int diaDesde, int diaHasta,
+                 long cliente, long vendedor, long metodoPago) {
+            this.columnas = columnas;
+            this.dimensiones = dimensiones;
+            this.diaDesde = diaDesde;
+            this.diaHasta = diaHasta;
+            this.cliente = cliente;
+            this.vendedor = vendedor;
+            this.metodoPago = metodoPago;
+        }
+
+        boolean coincide(int i) {
+            int d = columnas.dia[i];
+            return d >= diaDesde && d <= diaHasta
+                && (cliente == SIN_FILTRO || columnas.cliente[i] == cliente)
+                && (vendedor == SIN_FILTRO || columnas.vendedor[i] == vendedor)
+                && (metodoPago == SIN_FILTRO || columnas.metodoPago[i] == metodoPago);
+        }
+
+        long valor(Dimension dimension, int i) {
+            switch (dimension) {
+                case CLIENTE:
+                    return columnas.cliente[i];
+                case VENDEDOR:
+                    return columnas.vendedor[i];
+                case METODOPAGO:
+                    return columnas.metodoPago[i];
+                case DIA:
+                    return columnas.dia[i];
+                case SEMANA:
+                    // Lunes de la semana ISO (el día epoch 0 fue jueves)
+                    return columnas.dia[i] - Math.floorMod(columnas.dia[i] + 3, 7);
+                case MES:
+                    return columnas.mes[i];
+                default:
+                    throw new IllegalStateException(dimension.name());
+            }
+        }
+    }
+
+    /**
+     * Clave de grupo; se reutiliza como sonda y se copia sólo al crear un grupo nuevo
+     */
+    private static final class Clave {
+        final long[] valores;
+
+        Clave(long[] valores) {
+            this.valores = valores;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Clave && Arrays.equals(valores, ((Clave) o).valores);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(valores);
+        }
+    }
+
+    /**
+     * Recorrido paralelo de un rango de filas; cada hoja acumula [cantidad, centavos] por grupo
+     */
+    private static final class Escaneo extends RecursiveTask<Map<Clave, long[]>> {
+        private final Consulta consulta;
+        private final int desde;
+        private final int hasta;
+
+        Escaneo(Consulta consulta, int desde, int hasta) {
+            this.consulta = consulta;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Map<Clave, long[]> compute() {
+            if (hasta - desde > UMBRAL_SECUENCIAL) {
+                int medio = (desde + hasta) >>> 1;
+                Escaneo izquierda = new Escaneo(consulta, desde, medio);
+                izquierda.fork();
+                Map<Clave, long[]> derecha = new Escaneo(consulta, medio, hasta).compute();
+                return combinar(izquierda.join(), derecha);
+            }
+            return recorrer();
+        }
+
+        private Map<Clave, long[]> recorrer() {
+            Dimension[] dimensiones = consulta.dimensiones;
+            long[] centavos = consulta.columnas.centavos;
+            Map<Clave, long[]> grupos = new HashMap<>();
+            Clave sonda = new Clave(new long[dimensiones.length]);
+            for (int i = desde; i < hasta; i++) {
+                if (!consulta.coincide(i)) {
+                    continue;
+                }
+                for (int d = 0; d < dimensiones.length; d++) {
+                    sonda.valores[d] = consulta.valor(dimensiones[d], i);
+                }
+                long[] acumulado = grupos.get(sonda);
+                if (acumulado == null) {
+                    acumulado = new long[2];
+                    grupos.put(new Clave(sonda.valores.clone()), acumulado);
+                }
+                acumulado[0]++;
+                acumulado[1] += centavos[i];
+            }
+            return grupos;
+        }
+
+        private static Map<Clave, long[]> combinar(Map<Clave, long[]> a, Map<Clave, long[]> b) {
+            Map<Clave, long[]> mayor = a.size() >= b.size() ? a : b;
+            Map<Clave, long[]> menor = mayor == a ? b : a;
+            menor.forEach((clave, valor) -> mayor.merge(clave, valor, (x, y) -> {
+                x[0] += y[0];
+                x[1] += y[1];
+                return x;
+            }));
+            return mayor;
+        }
+    }
+}
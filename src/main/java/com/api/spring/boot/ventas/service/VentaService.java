@@ -1,11 +1,18 @@
 package com.api.spring.boot.ventas.service;
 
 import com.api.spring.boot.ventas.model.Venta;
+import com.api.spring.boot.ventas.model.VentaArchivada;
+import com.api.spring.boot.ventas.repository.VentaArchivadaRepository;
 import com.api.spring.boot.ventas.repository.VentaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 // Service para manejar la lógica de negocio de las ventas
 @Service
@@ -14,6 +21,13 @@ public class VentaService {
     @Autowired
     private VentaRepository repo;
 
+    @Autowired
+    private VentaArchivadaRepository archivoRepo;
+
+    // boleta_archivo sólo existe cuando el archivado está habilitado (ver db/boleta_archivo.sql)
+    @Value("${ventas.archivo.enabled:false}")
+    private boolean archivoHabilitado;
+
     public List<Venta> listar() {
         return repo.findAll();
     }
@@ -22,11 +36,35 @@ public class VentaService {
         return repo.save(venta);
     }
 
+    // Busca en boleta y, si no está y el archivado está habilitado, en boleta_archivo
     public Venta obtenerPorId(Long id) {
-        return repo.findById(id).orElse(null);
+        Optional<Venta> venta = repo.findById(id);
+        if (venta.isEmpty() && archivoHabilitado) {
+            venta = archivoRepo.findById(id).map(VentaArchivada::aVenta);
+        }
+        return venta.orElse(null);
+    }
+
+    // Retorna true si la venta existía (en boleta o en boleta_archivo)
+    @Transactional
+    public boolean eliminar(Long id) {
+        if (repo.eliminarPorId(id) > 0) {
+            return true;
+        }
+        return archivoHabilitado && archivoRepo.eliminarPorId(id) > 0;
     }
 
-    public void eliminar(Long id) {
-        repo.deleteById(id);
+    // Retorna la cantidad de ventas eliminadas entre ambas tablas
+    @Transactional
+    public int eliminarVarias(List<Long> ids) {
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        if (distintos.isEmpty()) {
+            return 0;
+        }
+        int eliminadas = repo.eliminarPorIds(distintos);
+        if (archivoHabilitado && eliminadas < distintos.size()) {
+            eliminadas += archivoRepo.eliminarPorIds(distintos);
+        }
+        return eliminadas;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+-- Tabla de archivo para las boletas movidas por ArchivoVentasService
+-- Misma estructura que boleta, sin AUTO_INCREMENT (conserva el id original)
+CREATE TABLE IF NOT EXISTS boleta_archivo (
+    id_venta      BIGINT       NOT NULL,
+    id_cliente    BIGINT       NOT NULL,
+    id_vendedor   BIGINT       NOT NULL,
+    fecha_venta   DATE         NOT NULL,
+    total         DOUBLE       NOT NULL,
+    id_metodopago BIGINT       NOT NULL,
+    PRIMARY KEY (id_venta),
+    KEY idx_boleta_archivo_fecha (fecha_venta)
+);
+
+
+-- Índice para que ArchivoVentasService.idsParaArchivar recorra sólo las boletas anteriores
+-- al corte (rango sobre fecha_venta) y no toda la clave primaria en cada ejecución
+CREATE INDEX idx_boleta_fecha_id ON boleta (fecha_venta, id_venta);
@@ -0,0 +1,51 @@
+package com.api.spring.boot.ventas.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdmisionFilterTest {
+
+    private static AdmisionFilter.GrupoEndpoint clasificar(String metodo, String ruta) {
+        return AdmisionFilter.clasificar(new MockHttpServletRequest(metodo, ruta));
+    }
+
+    @Test
+    void escriturasVanAlGrupoDeEscrituras() {
+        assertEquals(AdmisionFilter.GrupoEndpoint.ESCRITURAS, clasificar("POST", "/ventas"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.ESCRITURAS, clasificar("DELETE", "/ventas"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.ESCRITURAS, clasificar("DELETE", "/ventas/7"));
+    }
+
+    @Test
+    void llamadasCompuestasVanAlGrupoDeCompuestas() {
+        assertEquals(AdmisionFilter.GrupoEndpoint.COMPUESTAS, clasificar("GET", "/ventas/7/con-detalles"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.COMPUESTAS, clasificar("GET", "/ventas/stats/completas"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.COMPUESTAS, clasificar("GET", "/ventas/productos/mas-vendidos"));
+    }
+
+    @Test
+    void reportesVanAlGrupoDeReportes() {
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas/stats"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas/ranking/clientes"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas/ranking/vendedores"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas/analytics"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.REPORTES, clasificar("GET", "/ventas/cliente/3"));
+    }
+
+    @Test
+    void lecturaPorIdVaAlGrupoDeLecturas() {
+        assertEquals(AdmisionFilter.GrupoEndpoint.LECTURAS, clasificar("GET", "/ventas/7"));
+        assertEquals(AdmisionFilter.GrupoEndpoint.LECTURAS, clasificar("HEAD", "/ventas/7"));
+    }
+
+    @Test
+    void ignoraElContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/ventas/stats/completas");
+        request.setContextPath("/api");
+
+        assertEquals(AdmisionFilter.GrupoEndpoint.COMPUESTAS, AdmisionFilter.clasificar(request));
+    }
+}
@@ -0,0 +1,93 @@
+package com.api.spring.boot.ventas.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LimitadorAdaptativoTest {
+
+    private static AdmisionProperties.Grupo grupo(int limite, int cola, long timeoutMs) {
+        AdmisionProperties.Grupo grupo = new AdmisionProperties.Grupo();
+        grupo.setLimiteInicial(limite);
+        grupo.setLimiteMinimo(1);
+        grupo.setLimiteMaximo(20);
+        grupo.setCola(cola);
+        grupo.setTimeoutMs(timeoutMs);
+        grupo.setLatenciaObjetivoMs(1000);
+        grupo.setFactorReduccion(0.5);
+        return grupo;
+    }
+
+    @Test
+    void admiteMientrasNoSeAlcanzaElLimite() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(2, 0, 100));
+
+        assertEquals(LimitadorAdaptativo.Resultado.ADMITIDA, limitador.adquirir());
+        assertEquals(LimitadorAdaptativo.Resultado.ADMITIDA, limitador.adquirir());
+        assertEquals(2, limitador.metricas().get("enCurso"));
+    }
+
+    @Test
+    void rechazaConColaLlena() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(1, 0, 100));
+
+        assertEquals(LimitadorAdaptativo.Resultado.ADMITIDA, limitador.adquirir());
+        assertEquals(LimitadorAdaptativo.Resultado.COLA_LLENA, limitador.adquirir());
+        assertEquals(1L, limitador.metricas().get("rechazadasColaLlena"));
+    }
+
+    @Test
+    void rechazaAlVencerLaEsperaEnCola() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(1, 1, 50));
+
+        assertEquals(LimitadorAdaptativo.Resultado.ADMITIDA, limitador.adquirir());
+        assertEquals(LimitadorAdaptativo.Resultado.TIMEOUT, limitador.adquirir());
+        assertEquals(1L, limitador.metricas().get("rechazadasTimeout"));
+        assertEquals(0, limitador.metricas().get("enCola"));
+    }
+
+    @Test
+    void aumentaElLimiteDeFormaAditiva() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(2, 0, 100));
+        // Un cupo queda tomado para que el límite esté en uso
+        limitador.adquirir();
+
+        // 2 -> 2.5 -> 2.9 -> 3.24: sube 1 tras una ventana de respuestas rápidas
+        for (int i = 0; i < 3; i++) {
+            limitador.adquirir();
+            limitador.liberar(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertEquals(3, limitador.metricas().get("limite"));
+    }
+
+    @Test
+    void noAumentaElLimiteConPocaCarga() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(10, 0, 100));
+
+        // Una petición a la vez no llega a la mitad del límite
+        for (int i = 0; i < 20; i++) {
+            limitador.adquirir();
+            limitador.liberar(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertEquals(10, limitador.metricas().get("limite"));
+    }
+
+    @Test
+    void reduceMultiplicativamenteUnaVezPorVentana() throws InterruptedException {
+        LimitadorAdaptativo limitador = new LimitadorAdaptativo(grupo(10, 0, 100));
+        long lenta = TimeUnit.SECONDS.toNanos(2);
+
+        limitador.adquirir();
+        limitador.liberar(lenta);
+        assertEquals(5, limitador.metricas().get("limite"));
+
+        // Dentro de la misma ventana (latencia objetivo de 1 s) no se vuelve a reducir
+        limitador.adquirir();
+        limitador.liberar(lenta);
+        assertEquals(5, limitador.metricas().get("limite"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.spring.boot.ventas.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegistroConsultasSqlTest {
+
+    @Test
+    void colapsaListasInDeCualquierTamano() {
+        String uno = RegistroConsultasSql.sinParametros("delete from boleta where id_venta in (?)");
+        String varios = RegistroConsultasSql.sinParametros("delete from boleta where id_venta in (?,?, ?)");
+
+        assertEquals("delete from boleta where id_venta in (?...)", uno);
+        assertEquals(uno, varios);
+    }
+
+    @Test
+    void reemplazaLiteralesEnSentenciasNoPreparadas() {
+        assertEquals("select * from boleta b1_0 where b1_0.id_cliente=? and b1_0.fecha_venta<?",
+            RegistroConsultasSql.sinParametros("select * from boleta b1_0 where b1_0.id_cliente=42 and b1_0.fecha_venta<'2024-01-01'"));
+        assertEquals("select * from boleta where id_venta in (?...)",
+            RegistroConsultasSql.sinParametros("select * from boleta where id_venta IN (1, 2, 3)"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.api.spring.boot.ventas.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VentaAnalyticsServiceTest {
+
+    private static Object[] fila(long id, long cliente, long vendedor, LocalDate fecha, double total, long metodoPago) {
+        return new Object[] {id, cliente, vendedor, fecha, total, metodoPago};
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> filas(Map<String, Object> resultado) {
+        return (List<Map<String, Object>>) resultado.get("filas");
+    }
+
+    @Test
+    void agregarCreceEntreLotesSinAlterarSnapshotsAnteriores() {
+        VentaAnalyticsService.Columnas primero = VentaAnalyticsService.Columnas.vacias()
+            .agregar(List.<Object[]>of(fila(1, 10, 100, LocalDate.of(2024, 1, 1), 5.0, 1)));
+        VentaAnalyticsService.Columnas segundo = primero.agregar(List.<Object[]>of(
+            fila(2, 11, 100, LocalDate.of(2024, 1, 2), 7.5, 1),
+            fila(3, 12, 101, LocalDate.of(2024, 1, 3), 1.25, 2)));
+
+        assertEquals(1, primero.tamano);
+        assertEquals(3, segundo.tamano);
+        assertTrue(segundo.id.length >= 3);
+        assertEquals(3L, segundo.id[2]);
+        assertEquals(125L, segundo.centavos[2]);
+        assertEquals(1L, primero.id[0]);
+    }
+
+    @Test
+    void agrupaPorSemanaIsoDesdeElLunes() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+        servicio.cargar(List.<Object[]>of(
+            fila(1, 1, 1, LocalDate.of(2024, 1, 15), 10.0, 1),   // lunes
+            fila(2, 1, 1, LocalDate.of(2024, 1, 21), 10.0, 1),   // domingo, misma semana
+            fila(3, 1, 1, LocalDate.of(1970, 1, 1), 1.0, 1)));   // día epoch 0 (jueves)
+
+        List<Map<String, Object>> filas = filas(servicio.consultar(null, null, null, null, null, List.of("semana"), 10));
+
+        assertEquals(2, filas.size());
+        assertEquals("2024-01-15", filas.get(0).get("semana"));
+        assertEquals(2L, filas.get(0).get("cantidadVentas"));
+        assertEquals("1969-12-29", filas.get(1).get("semana"));
+    }
+
+    @Test
+    void formateaElMesComoAnioMes() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+        servicio.cargar(List.<Object[]>of(
+            fila(1, 1, 1, LocalDate.of(2023, 12, 31), 20.0, 1),
+            fila(2, 1, 1, LocalDate.of(2024, 3, 5), 10.0, 1)));
+
+        List<Map<String, Object>> filas = filas(servicio.consultar(null, null, null, null, null, List.of("mes"), 10));
+
+        assertEquals("2023-12", filas.get(0).get("mes"));
+        assertEquals("2024-03", filas.get(1).get("mes"));
+    }
+
+    @Test
+    void combinaGruposEntreTareasParalelas() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+        int total = 200_000;
+        for (int inicio = 0; inicio < total; inicio += 10_000) {
+            List<Object[]> lote = new ArrayList<>();
+            for (int i = inicio; i < inicio + 10_000; i++) {
+                lote.add(fila(i + 1, i, i % 3, LocalDate.of(2024, 1, 1), 1.0, 1));
+            }
+            servicio.cargar(lote);
+        }
+
+        Map<String, Object> resultado = servicio.consultar(null, null, null, null, null, List.of("vendedor"), 10);
+        List<Map<String, Object>> filas = filas(resultado);
+
+        assertEquals(total, resultado.get("filasEscaneadas"));
+        assertEquals((long) total, resultado.get("filasCoincidentes"));
+        assertEquals(3, filas.size());
+        long suma = 0;
+        for (Map<String, Object> fila : filas) {
+            suma += (Long) fila.get("cantidadVentas");
+        }
+        assertEquals(total, suma);
+        // 200000 = 66667 + 66667 + 66666: vendedores 0 y 1 empatan y se ordenan por id
+        assertEquals(0L, filas.get(0).get("vendedor"));
+        assertEquals(1L, filas.get(1).get("vendedor"));
+        assertEquals(new BigDecimal("66666.00"), filas.get(2).get("totalVentas"));
+    }
+
+    @Test
+    void empatesSeOrdenanPorLaClaveDelGrupo() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+        servicio.cargar(List.<Object[]>of(
+            fila(1, 1, 9, LocalDate.of(2024, 1, 1), 10.0, 1),
+            fila(2, 1, 4, LocalDate.of(2024, 1, 1), 10.0, 1),
+            fila(3, 1, 7, LocalDate.of(2024, 1, 1), 10.0, 1)));
+
+        List<Map<String, Object>> filas = filas(servicio.consultar(null, null, null, null, null, List.of("vendedor"), 10));
+
+        assertEquals(4L, filas.get(0).get("vendedor"));
+        assertEquals(7L, filas.get(1).get("vendedor"));
+        assertEquals(9L, filas.get(2).get("vendedor"));
+    }
+
+    @Test
+    void rechazaLimiteNoPositivo() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> servicio.consultar(null, null, null, null, null, List.of(), 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> servicio.consultar(null, null, null, null, null, List.of(), -1));
+    }
+
+    @Test
+    void rechazaDimensionDesconocida() {
+        VentaAnalyticsService servicio = new VentaAnalyticsService();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> servicio.consultar(null, null, null, null, null, List.of("sucursal"), 10));
+        assertTrue(error.getMessage().contains("sucursal"));
+    }
+}